@@ -2,6 +2,7 @@ package br.com.viviankailany.locais.controller;
 
 import br.com.viviankailany.locais.exception.LocalNotFoundException;
 import br.com.viviankailany.locais.model.Local;
+import br.com.viviankailany.locais.model.LocalFiltro;
 import br.com.viviankailany.locais.service.LocalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +11,10 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -133,6 +138,32 @@ public class LocalController {
         return ResponseEntity.ok(locais);
     }
 
+    /**
+     * Busca locais combinando filtros opcionais e ordenação.
+     *
+     * @param filtro os critérios da busca; apenas os campos preenchidos são considerados
+     * @param pageable a página, o tamanho e a ordenação desejados
+     * @return a resposta contendo a fatia de locais encontrados e o status HTTP
+     */
+    @GetMapping("/busca")
+    @Operation(summary = "Busca locais por filtros", description = "Busca locais combinando filtros opcionais por nome, bairro, cidade, estado e intervalos de data, com ordenação por id, nome, bairro, cidade, estado, dataCriacao ou dataAtualizacao. Os campos de texto também aceitam ordenação sem diferenciar maiúsculas de minúsculas (ignorecase).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fatia de locais que atendem aos filtros", content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"content\":[{\"nome\":\"Praça da fonte\", \"bairro\":\"Centro\", \"cidade\":\"Pacatuba\", \"estado\":\"CE\"}], \"number\":0, \"size\":20, \"first\":true, \"last\":true}")
+            )),
+            @ApiResponse(responseCode = "400", description = "Ordenação por campo não permitido ou página além do limite suportado", content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(description = "Mensagem de erro para ordenação ou paginação inválida")
+            ))
+    })
+    public ResponseEntity<Slice<Local>> buscarPorFiltro(
+            @ParameterObject LocalFiltro filtro,
+            @ParameterObject @PageableDefault(size = 20, sort = "dataCriacao") Pageable pageable) {
+        Slice<Local> locais = localService.buscarPorFiltro(filtro, pageable);
+        return ResponseEntity.ok(locais);
+    }
+
     /**
      * Atualiza o local com base no ID fornecido.
      *
@@ -64,4 +64,26 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleLocalNotFoundException(LocalNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
+
+    /**
+     * Manipula exceções de ordenação por campos não permitidos.
+     *
+     * @param ex a exceção de ordenação inválida
+     * @return uma resposta com status HTTP 400 (BAD_REQUEST) contendo a mensagem da exceção
+     */
+    @ExceptionHandler(OrdenacaoInvalidaException.class)
+    public ResponseEntity<String> handleOrdenacaoInvalidaException(OrdenacaoInvalidaException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    /**
+     * Manipula exceções de páginas além do limite suportado.
+     *
+     * @param ex a exceção de paginação inválida
+     * @return uma resposta com status HTTP 400 (BAD_REQUEST) contendo a mensagem da exceção
+     */
+    @ExceptionHandler(PaginacaoInvalidaException.class)
+    public ResponseEntity<String> handlePaginacaoInvalidaException(PaginacaoInvalidaException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
 }
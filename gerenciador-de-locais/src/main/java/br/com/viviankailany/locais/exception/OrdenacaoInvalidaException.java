@@ -0,0 +1,16 @@
+package br.com.viviankailany.locais.exception;
+
+/**
+ * Exceção lançada quando uma busca solicita ordenação por um campo não permitido.
+ */
+public class OrdenacaoInvalidaException extends RuntimeException {
+
+    /**
+     * Constrói uma nova instância de {@code OrdenacaoInvalidaException} com uma mensagem detalhada.
+     *
+     * @param campo o campo de ordenação rejeitado
+     */
+    public OrdenacaoInvalidaException(String campo) {
+        super("Não é possível ordenar pelo campo " + campo);
+    }
+}
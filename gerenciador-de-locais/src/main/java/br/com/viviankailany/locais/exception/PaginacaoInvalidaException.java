@@ -0,0 +1,16 @@
+package br.com.viviankailany.locais.exception;
+
+/**
+ * Exceção lançada quando uma busca solicita uma página além do limite suportado.
+ */
+public class PaginacaoInvalidaException extends RuntimeException {
+
+    /**
+     * Constrói uma nova instância de {@code PaginacaoInvalidaException} com uma mensagem detalhada.
+     *
+     * @param pagina o número da página rejeitada
+     */
+    public PaginacaoInvalidaException(int pagina) {
+        super("A página " + pagina + " está além do limite suportado");
+    }
+}
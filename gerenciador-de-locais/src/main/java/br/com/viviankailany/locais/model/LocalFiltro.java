@@ -0,0 +1,58 @@
+package br.com.viviankailany.locais.model;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Critérios opcionais para a busca de locais. Apenas os campos preenchidos
+ * são considerados na consulta; os demais são ignorados.
+ */
+@Data
+public class LocalFiltro {
+
+    /**
+     * Nome exato do local.
+     */
+    private String nome;
+
+    /**
+     * Nome exato do bairro.
+     */
+    private String bairro;
+
+    /**
+     * Nome exato da cidade.
+     */
+    private String cidade;
+
+    /**
+     * Nome exato do estado.
+     */
+    private String estado;
+
+    /**
+     * Limite inferior (inclusivo) da data de criação.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataCriacaoInicio;
+
+    /**
+     * Limite superior (inclusivo) da data de criação.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataCriacaoFim;
+
+    /**
+     * Limite inferior (inclusivo) da data de atualização.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataAtualizacaoInicio;
+
+    /**
+     * Limite superior (inclusivo) da data de atualização.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataAtualizacaoFim;
+}
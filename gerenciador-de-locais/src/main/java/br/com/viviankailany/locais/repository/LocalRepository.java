@@ -7,9 +7,10 @@ import java.util.List;
 
 /**
  * Interface de repositório para manipulação de entidades {@link Local}.
- * Extende {@link JpaRepository} para fornecer operações CRUD e consultas personalizadas.
+ * Extende {@link JpaRepository} para fornecer operações CRUD e consultas personalizadas,
+ * e {@link LocalRepositoryCustom} para a busca com filtros dinâmicos.
  */
-public interface LocalRepository extends JpaRepository<Local, Long> {
+public interface LocalRepository extends JpaRepository<Local, Long>, LocalRepositoryCustom {
 
     /**
      * Encontra todos os locais e os ordena pela data de criação em ordem ascendente.
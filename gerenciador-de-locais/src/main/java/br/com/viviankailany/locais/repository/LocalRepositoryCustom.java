@@ -0,0 +1,28 @@
+package br.com.viviankailany.locais.repository;
+
+import br.com.viviankailany.locais.exception.OrdenacaoInvalidaException;
+import br.com.viviankailany.locais.exception.PaginacaoInvalidaException;
+import br.com.viviankailany.locais.model.Local;
+import br.com.viviankailany.locais.model.LocalFiltro;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Consultas de {@link Local} que não podem ser expressas como métodos derivados.
+ */
+public interface LocalRepositoryCustom {
+
+    /**
+     * Busca os locais que atendem a todos os critérios preenchidos no filtro.
+     * <p>
+     * O resultado é um {@link Slice}, portanto nenhuma contagem total é executada.
+     *
+     * @param filtro os critérios da busca; campos nulos ou em branco são ignorados
+     * @param pageable a página e a ordenação desejadas
+     * @return uma fatia de {@link Local} que atende ao filtro
+     * @throws OrdenacaoInvalidaException se a ordenação usar um campo não permitido, ou ignorar
+     *         maiúsculas e minúsculas em um campo que não é texto
+     * @throws PaginacaoInvalidaException se a página solicitada estiver além do limite suportado
+     */
+    Slice<Local> buscarPorFiltro(LocalFiltro filtro, Pageable pageable);
+}
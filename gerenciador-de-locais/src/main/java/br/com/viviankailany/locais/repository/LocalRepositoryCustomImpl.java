@@ -0,0 +1,161 @@
+package br.com.viviankailany.locais.repository;
+
+import br.com.viviankailany.locais.exception.OrdenacaoInvalidaException;
+import br.com.viviankailany.locais.exception.PaginacaoInvalidaException;
+import br.com.viviankailany.locais.model.Local;
+import br.com.viviankailany.locais.model.LocalFiltro;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Implementação de {@link LocalRepositoryCustom} baseada em JPQL.
+ * <p>
+ * A consulta de cada combinação de filtros e ordenação é montada uma única vez e
+ * reaproveitada nas chamadas seguintes. Como o texto da consulta é sempre o mesmo
+ * para uma mesma combinação, o Hibernate também reaproveita o plano já compilado.
+ */
+public class LocalRepositoryCustomImpl implements LocalRepositoryCustom {
+
+    /**
+     * Campos de {@link Local} que podem ser usados na ordenação, indicando se
+     * aceitam ordenação sem diferenciar maiúsculas de minúsculas.
+     */
+    private static final Map<String, Boolean> CAMPOS_ORDENAVEIS = Map.of(
+            "id", false,
+            "nome", true,
+            "bairro", true,
+            "cidade", true,
+            "estado", true,
+            "dataCriacao", false,
+            "dataAtualizacao", false);
+
+    /**
+     * Filtros disponíveis, na ordem em que aparecem na consulta.
+     */
+    private static final List<Filtro> FILTROS = List.of(
+            new Filtro("nome", "l.nome = :nome", LocalFiltro::getNome),
+            new Filtro("bairro", "l.bairro = :bairro", LocalFiltro::getBairro),
+            new Filtro("cidade", "l.cidade = :cidade", LocalFiltro::getCidade),
+            new Filtro("estado", "l.estado = :estado", LocalFiltro::getEstado),
+            new Filtro("dataCriacaoInicio", "l.dataCriacao >= :dataCriacaoInicio", LocalFiltro::getDataCriacaoInicio),
+            new Filtro("dataCriacaoFim", "l.dataCriacao <= :dataCriacaoFim", LocalFiltro::getDataCriacaoFim),
+            new Filtro("dataAtualizacaoInicio", "l.dataAtualizacao >= :dataAtualizacaoInicio", LocalFiltro::getDataAtualizacaoInicio),
+            new Filtro("dataAtualizacaoFim", "l.dataAtualizacao <= :dataAtualizacaoFim", LocalFiltro::getDataAtualizacaoFim));
+
+    /**
+     * Limite de consultas mantidas em cache, para que combinações raras de
+     * ordenação não façam o cache crescer indefinidamente.
+     */
+    private static final int LIMITE_CONSULTAS = 256;
+
+    private final Map<FormaConsulta, String> consultas = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Local> buscarPorFiltro(LocalFiltro filtro, Pageable pageable) {
+        if (pageable.isPaged() && pageable.getOffset() > Integer.MAX_VALUE) {
+            throw new PaginacaoInvalidaException(pageable.getPageNumber());
+        }
+
+        List<Filtro> filtros = new ArrayList<>();
+        List<Object> valores = new ArrayList<>();
+        for (Filtro candidato : FILTROS) {
+            Object valor = candidato.valor().apply(filtro);
+            if (valor instanceof String texto ? StringUtils.hasText(texto) : valor != null) {
+                filtros.add(candidato);
+                valores.add(valor);
+            }
+        }
+        FormaConsulta forma = new FormaConsulta(List.copyOf(filtros), pageable.getSort());
+
+        String jpql = consultas.get(forma);
+        if (jpql == null) {
+            jpql = montarConsulta(forma);
+            if (consultas.size() < LIMITE_CONSULTAS) {
+                consultas.putIfAbsent(forma, jpql);
+            }
+        }
+
+        TypedQuery<Local> query = entityManager.createQuery(jpql, Local.class);
+        for (int i = 0; i < filtros.size(); i++) {
+            query.setParameter(filtros.get(i).parametro(), valores.get(i));
+        }
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        // Busca um registro a mais apenas para saber se existe uma próxima fatia.
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<Local> locais = query.getResultList();
+        boolean temProxima = locais.size() > pageable.getPageSize();
+        if (temProxima) {
+            locais = locais.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(locais, pageable, temProxima);
+    }
+
+    /**
+     * Monta o texto JPQL para uma combinação de filtros e ordenação.
+     *
+     * @param forma os filtros preenchidos e a ordenação
+     * @return a consulta JPQL
+     * @throws OrdenacaoInvalidaException se a ordenação usar um campo não permitido
+     */
+    private static String montarConsulta(FormaConsulta forma) {
+        StringBuilder jpql = new StringBuilder("select l from Local l");
+        for (int i = 0; i < forma.filtros().size(); i++) {
+            jpql.append(i == 0 ? " where " : " and ").append(forma.filtros().get(i).condicao());
+        }
+
+        jpql.append(" order by ");
+        boolean ordenaPorId = false;
+        for (Sort.Order ordem : forma.ordenacao()) {
+            Boolean aceitaIgnorarCaixa = CAMPOS_ORDENAVEIS.get(ordem.getProperty());
+            if (aceitaIgnorarCaixa == null || (ordem.isIgnoreCase() && !aceitaIgnorarCaixa)) {
+                throw new OrdenacaoInvalidaException(ordem.getProperty());
+            }
+            String campo = "l." + ordem.getProperty();
+            jpql.append(ordem.isIgnoreCase() ? "lower(" + campo + ")" : campo)
+                    .append(' ').append(ordem.getDirection().name()).append(", ");
+            ordenaPorId |= ordem.getProperty().equals("id");
+        }
+        // O id desempata registros iguais para que as fatias não se sobreponham.
+        if (!ordenaPorId) {
+            jpql.append("l.id ASC");
+        } else {
+            jpql.setLength(jpql.length() - 2);
+        }
+        return jpql.toString();
+    }
+
+    /**
+     * Filtro opcional da busca.
+     *
+     * @param parametro o nome do parâmetro na consulta
+     * @param condicao a condição JPQL aplicada quando o filtro é preenchido
+     * @param valor extrai o valor do filtro a partir de {@link LocalFiltro}
+     */
+    private record Filtro(String parametro, String condicao, Function<LocalFiltro, Object> valor) {
+    }
+
+    /**
+     * Identifica uma consulta pelos filtros preenchidos e pela ordenação, independente dos valores.
+     */
+    private record FormaConsulta(List<Filtro> filtros, Sort ordenacao) {
+    }
+}
@@ -1,8 +1,13 @@
 package br.com.viviankailany.locais.service;
 
 import br.com.viviankailany.locais.exception.LocalNotFoundException;
+import br.com.viviankailany.locais.exception.OrdenacaoInvalidaException;
+import br.com.viviankailany.locais.exception.PaginacaoInvalidaException;
 import br.com.viviankailany.locais.model.Local;
+import br.com.viviankailany.locais.model.LocalFiltro;
 import br.com.viviankailany.locais.repository.LocalRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -69,6 +74,19 @@ public class LocalService {
         return localRepository.findByNome(nome);
     }
 
+    /**
+     * Busca locais combinando os critérios preenchidos no filtro.
+     *
+     * @param filtro os critérios da busca
+     * @param pageable a página e a ordenação desejadas
+     * @return uma fatia de locais que atendem ao filtro
+     * @throws OrdenacaoInvalidaException se a ordenação usar um campo não permitido
+     * @throws PaginacaoInvalidaException se a página solicitada estiver além do limite suportado
+     */
+    public Slice<Local> buscarPorFiltro(LocalFiltro filtro, Pageable pageable) {
+        return localRepository.buscarPorFiltro(filtro, pageable);
+    }
+
     /**
      * Atualiza um local existente.
      *
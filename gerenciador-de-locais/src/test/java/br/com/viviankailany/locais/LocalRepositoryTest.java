@@ -0,0 +1,193 @@
+package br.com.viviankailany.locais;
+
+import br.com.viviankailany.locais.exception.OrdenacaoInvalidaException;
+import br.com.viviankailany.locais.exception.PaginacaoInvalidaException;
+import br.com.viviankailany.locais.model.Local;
+import br.com.viviankailany.locais.model.LocalFiltro;
+import br.com.viviankailany.locais.repository.LocalRepository;
+import br.com.viviankailany.locais.repository.LocalRepositoryCustomImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+public class LocalRepositoryTest {
+
+    @Autowired
+    private LocalRepository localRepository;
+
+    @Autowired
+    private LocalRepositoryCustomImpl localRepositoryCustomImpl;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    public void setup() {
+        // Criação de locais em cidades e estados diferentes
+        localRepository.saveAll(List.of(
+                local("Praça da Fonte", "Centro", "Pacatuba", "CE", LocalDateTime.of(2024, 8, 1, 10, 0)),
+                local("Igreja Matriz", "Centro", "Pacatuba", "CE", LocalDateTime.of(2024, 8, 5, 10, 0)),
+                local("Mercado Central", "Centro", "Fortaleza", "CE", LocalDateTime.of(2024, 8, 10, 10, 0)),
+                local("Parque da Cidade", "Jardim", "Natal", "RN", LocalDateTime.of(2024, 8, 15, 10, 0))));
+    }
+
+    @Test
+    public void whenFiltroHasBairroAndCidade_thenOnlyMatchingLocaisAreReturned() {
+        LocalFiltro filtro = new LocalFiltro();
+        filtro.setBairro("Centro");
+        filtro.setCidade("Pacatuba");
+
+        Slice<Local> locais = localRepository.buscarPorFiltro(filtro, PageRequest.of(0, 10, Sort.by("nome")));
+
+        assertEquals(List.of("Igreja Matriz", "Praça da Fonte"),
+                locais.map(Local::getNome).getContent());
+    }
+
+    @Test
+    public void whenFiltroHasDataAtualizacaoRange_thenOnlyLocaisInRangeAreReturned() {
+        LocalFiltro filtro = new LocalFiltro();
+        filtro.setEstado("CE");
+        filtro.setDataAtualizacaoInicio(LocalDateTime.of(2024, 8, 2, 0, 0));
+        filtro.setDataAtualizacaoFim(LocalDateTime.of(2024, 8, 31, 0, 0));
+
+        Slice<Local> locais = localRepository.buscarPorFiltro(filtro,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dataAtualizacao")));
+
+        assertEquals(List.of("Mercado Central", "Igreja Matriz"),
+                locais.map(Local::getNome).getContent());
+    }
+
+    @Test
+    public void whenMoreLocaisExist_thenSliceReportsNextPage() {
+        // Filtro vazio: a mesma forma de consulta é reaproveitada nas duas fatias
+        LocalFiltro filtro = new LocalFiltro();
+
+        Slice<Local> primeira = localRepository.buscarPorFiltro(filtro, PageRequest.of(0, 3, Sort.by("nome")));
+        Slice<Local> segunda = localRepository.buscarPorFiltro(filtro, primeira.nextPageable());
+
+        assertEquals(3, primeira.getNumberOfElements());
+        assertTrue(primeira.hasNext());
+        assertEquals(List.of("Praça da Fonte"), segunda.map(Local::getNome).getContent());
+        assertFalse(segunda.hasNext());
+    }
+
+    @Test
+    public void whenSortFieldIsNotAllowed_thenOrdenacaoInvalidaIsThrown() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("nome; drop table local"));
+
+        assertThrows(OrdenacaoInvalidaException.class,
+                () -> localRepository.buscarPorFiltro(new LocalFiltro(), pageable));
+    }
+
+    @Test
+    public void whenFiltroHasDataCriacaoRange_thenOnlyLocaisInRangeAreReturned() {
+        // A data de criação é definida pelo @CreationTimestamp, então o filtro usa o valor gravado no banco
+        Local salvo = localRepository.save(local("Arena Castelão", "Passaré", "Fortaleza", "CE", LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime dataCriacao = localRepository.findById(salvo.getId()).orElseThrow().getDataCriacao();
+
+        LocalFiltro noIntervalo = new LocalFiltro();
+        noIntervalo.setDataCriacaoInicio(dataCriacao);
+        noIntervalo.setDataCriacaoFim(dataCriacao);
+        LocalFiltro antes = new LocalFiltro();
+        antes.setDataCriacaoFim(dataCriacao.minusSeconds(1));
+        LocalFiltro depois = new LocalFiltro();
+        depois.setDataCriacaoInicio(dataCriacao.plusSeconds(1));
+
+        PageRequest pageable = PageRequest.of(0, 10);
+        assertTrue(localRepository.buscarPorFiltro(noIntervalo, pageable).map(Local::getId).getContent().contains(salvo.getId()));
+        assertFalse(localRepository.buscarPorFiltro(antes, pageable).map(Local::getId).getContent().contains(salvo.getId()));
+        assertFalse(localRepository.buscarPorFiltro(depois, pageable).map(Local::getId).getContent().contains(salvo.getId()));
+    }
+
+    @Test
+    public void whenFiltroHasBlankStrings_thenTheyAreIgnored() {
+        LocalFiltro filtro = new LocalFiltro();
+        filtro.setNome("   ");
+        filtro.setBairro("");
+        filtro.setCidade("Pacatuba");
+
+        Slice<Local> locais = localRepository.buscarPorFiltro(filtro, PageRequest.of(0, 10, Sort.by("nome")));
+
+        assertEquals(List.of("Igreja Matriz", "Praça da Fonte"),
+                locais.map(Local::getNome).getContent());
+    }
+
+    @Test
+    public void whenFiltroShapeRepeats_thenCachedConsultaIsReused() {
+        Map<?, ?> consultas = (Map<?, ?>) ReflectionTestUtils.getField(localRepositoryCustomImpl, "consultas");
+        // Forma exclusiva deste teste: filtro por bairro e estado, ordenado por cidade
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("cidade"));
+        int antes = consultas.size();
+
+        LocalFiltro centro = new LocalFiltro();
+        centro.setBairro("Centro");
+        centro.setEstado("CE");
+        assertEquals(3, localRepository.buscarPorFiltro(centro, pageable).getNumberOfElements());
+        assertEquals(antes + 1, consultas.size());
+        Map<?, ?> consultasAposPrimeiraBusca = Map.copyOf(consultas);
+
+        LocalFiltro jardim = new LocalFiltro();
+        jardim.setBairro("Jardim");
+        jardim.setEstado("RN");
+        assertEquals(1, localRepository.buscarPorFiltro(jardim, pageable).getNumberOfElements());
+        // Mesma forma com outros valores: nenhuma consulta nova é montada
+        assertEquals(consultasAposPrimeiraBusca, Map.copyOf(consultas));
+    }
+
+    @Test
+    public void whenSortIgnoresCase_thenTextFieldsAreOrderedCaseInsensitively() {
+        localRepository.save(local("arco do Triunfo", "Centro", "Pacatuba", "CE", LocalDateTime.now()));
+        LocalFiltro filtro = new LocalFiltro();
+        filtro.setCidade("Pacatuba");
+
+        Slice<Local> locais = localRepository.buscarPorFiltro(filtro,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.asc("nome").ignoreCase())));
+
+        assertEquals(List.of("arco do Triunfo", "Igreja Matriz", "Praça da Fonte"),
+                locais.map(Local::getNome).getContent());
+    }
+
+    @Test
+    public void whenSortIgnoresCaseOnNonTextField_thenOrdenacaoInvalidaIsThrown() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("dataCriacao").ignoreCase()));
+
+        assertThrows(OrdenacaoInvalidaException.class,
+                () -> localRepository.buscarPorFiltro(new LocalFiltro(), pageable));
+    }
+
+    @Test
+    public void whenOffsetExceedsIntegerRange_thenPaginacaoInvalidaIsThrown() {
+        PageRequest pageable = PageRequest.of(200_000_000, 20);
+
+        assertThrows(PaginacaoInvalidaException.class,
+                () -> localRepository.buscarPorFiltro(new LocalFiltro(), pageable));
+    }
+
+    private static Local local(String nome, String bairro, String cidade, String estado, LocalDateTime dataAtualizacao) {
+        Local local = new Local();
+        local.setNome(nome);
+        local.setBairro(bairro);
+        local.setCidade(cidade);
+        local.setEstado(estado);
+        local.setDataAtualizacao(dataAtualizacao);
+        return local;
+    }
+}